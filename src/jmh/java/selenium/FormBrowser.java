@@ -0,0 +1,22 @@
+package selenium;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A local form server and one browser for a benchmark trial, configured by the same system properties as the tests.
+ */
+class FormBrowser implements AutoCloseable {
+
+    final FormServer server = FormServer.startConfigured();
+    final WebDriver driver = BrowserConfig.fromSystemProperties().launch();
+
+    ContactFormPage openForm() {
+        return new ContactFormPage(driver, Readiness.configured(driver, new WaitMetrics())).open(server.formUrl());
+    }
+
+    @Override
+    public void close() {
+        driver.quit();
+        server.close();
+    }
+}
@@ -0,0 +1,85 @@
+package selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of finding the same elements of the form with XPath, CSS and a script.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    // the lookups the tests originally made: a document-wide scan for the section, then the input within it
+    private static final By NAME_SECTION_XPATH = By.xpath("//*[contains(@data-params, '\"Name\"')]");
+    private static final By TEXT_INPUT_XPATH = By.xpath(".//input[@type='text']");
+    private static final By NAME_INPUT_CSS = By.cssSelector("[data-params*='\"Name\"'] input[type='text']");
+    private static final String NAME_INPUT_SCRIPT = "return document.querySelector(arguments[0]);";
+
+    private static final By SUBMIT_XPATH = By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]");
+    private static final String SUBMIT_SCRIPT = """
+            return Array.prototype.find.call(document.querySelectorAll("div[role='button']"), function (button) {
+              return /Submit|Saada ära/.test(button.textContent);
+            });
+            """;
+
+    private FormBrowser browser;
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void openForm() {
+        browser = new FormBrowser();
+        browser.openForm();
+        driver = browser.driver;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        browser.close();
+    }
+
+    @Benchmark
+    public WebElement nameInputXPath() {
+        return driver.findElement(NAME_SECTION_XPATH).findElement(TEXT_INPUT_XPATH);
+    }
+
+    @Benchmark
+    public WebElement nameInputCss() {
+        return driver.findElement(NAME_INPUT_CSS);
+    }
+
+    @Benchmark
+    public Object nameInputScript() {
+        return ((JavascriptExecutor) driver).executeScript(NAME_INPUT_SCRIPT, "[data-params*='\"Name\"'] input[type='text']");
+    }
+
+    @Benchmark
+    public WebElement submitXPath() {
+        return driver.findElement(SUBMIT_XPATH);
+    }
+
+    @Benchmark
+    public Object submitScript() {
+        return ((JavascriptExecutor) driver).executeScript(SUBMIT_SCRIPT);
+    }
+}
@@ -0,0 +1,78 @@
+package selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import selenium.ContactFormPage.Field;
+import selenium.ContactFormPage.FillMode;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of telling whether a submission went through: serializing the whole page source against asking
+ * the page for the confirmation text. Measured on the confirmation page and on a page with validation alerts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuccessCheckBenchmark {
+
+    private static final By CONFIRMATION_XPATH = By.xpath("//*[contains(text(), '" + FormServer.THANKS_MESSAGE + "')]");
+    private static final String CONFIRMATION_SCRIPT = "return document.body.innerText.indexOf(arguments[0]) >= 0;";
+
+    @Param({"confirmation", "alerts"})
+    public String page;
+
+    private FormBrowser browser;
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void submitForm() {
+        browser = new FormBrowser();
+        driver = browser.driver;
+        var values = new EnumMap<Field, String>(Field.class);
+        values.put(Field.NAME, "John");
+        values.put(Field.EMAIL, "confirmation".equals(page) ? "test@example.com" : "test");
+        values.put(Field.ADDRESS, "Turu 2, 51004 Tartu");
+        var form = browser.openForm();
+        form.fillAll(values, FillMode.BULK);
+        form.submit();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        browser.close();
+    }
+
+    @Benchmark
+    public boolean pageSource() {
+        return driver.getPageSource().contains(FormServer.THANKS_MESSAGE);
+    }
+
+    @Benchmark
+    public boolean targetedXPath() {
+        return !driver.findElements(CONFIRMATION_XPATH).isEmpty();
+    }
+
+    @Benchmark
+    public Object targetedScript() {
+        return ((JavascriptExecutor) driver).executeScript(CONFIRMATION_SCRIPT, FormServer.THANKS_MESSAGE);
+    }
+}
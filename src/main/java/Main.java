@@ -1,6 +1,51 @@
+import selenium.BrowserConfig;
+import selenium.FormServer;
+import selenium.LoadGenerator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 public class Main {
 
-    public static void main(String[] args) {
-        System.out.println("Hello World!");
+    private static final String USAGE = """
+            Usage: Main --load [--sessions=4] [--rate=1] [--duration=60] [--remote]
+              --sessions  concurrent browser sessions
+              --rate      target submissions per second across all sessions
+              --duration  length of the run in seconds
+              --remote    submit to the real Google form instead of a local stand-in
+            Browser settings are taken from the same system properties as the tests (-Dbrowser.headless=true, ...).""";
+
+    public static void main(String[] args) throws InterruptedException {
+        var options = parse(args);
+        if (!options.containsKey("load")) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        var server = FormServer.startUnlessRemote(options.containsKey("remote"));
+        try {
+            var settings = new LoadGenerator.Settings(
+                    Integer.parseInt(options.getOrDefault("sessions", "4")),
+                    Double.parseDouble(options.getOrDefault("rate", "1")),
+                    Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                    FormServer.targetUrl(server)
+            );
+            new LoadGenerator(settings, BrowserConfig.fromSystemProperties()).run();
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    // --name=value and bare --flag arguments
+    private static Map<String, String> parse(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unexpected argument " + arg + "\n" + USAGE);
+            var separator = arg.indexOf('=');
+            if (separator < 0) options.put(arg.substring(2), "");
+            else options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
     }
 }
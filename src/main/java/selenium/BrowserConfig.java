@@ -0,0 +1,140 @@
+package selenium;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * How Chrome is launched: which chromedriver binary to use and the browser's startup profile.
+ * Read from system properties, which the "headless" and "lean" Maven profiles set for the tests.
+ */
+public record BrowserConfig(String driverBinary, boolean headless, boolean lean, Dimension windowSize,
+                            PageLoadStrategy pageLoadStrategy, Path userDataDir) {
+
+    private static final String DRIVERS = System.getProperty("user.dir") + File.separator + "drivers" + File.separator;
+    private static final String MAC_INTEL_DRIVER = DRIVERS + "macos" + File.separator + "chromedriver_mac_intel";
+    private static final String MAC_ARM_DRIVER = DRIVERS + "macos" + File.separator + "chromedriver_mac_arm";
+    private static final String LINUX_DRIVER = DRIVERS + "linux" + File.separator + "chromedriver_linux";
+    private static final String WINDOWS_DRIVER = DRIVERS + "windows" + File.separator + "chromedriver_windows.exe";
+
+    private static final AtomicInteger SESSIONS = new AtomicInteger();
+
+    /**
+     * Reads "webdriver.chrome.driver" (the bundled driver for this OS by default), "browser.headless",
+     * "browser.lean", "browser.window" (e.g. 1280x800), "browser.pageLoad" (normal, eager or none)
+     * and "browser.userDataDir".
+     */
+    public static BrowserConfig fromSystemProperties() {
+        var window = System.getProperty("browser.window", "");
+        var userDataDir = System.getProperty("browser.userDataDir", "");
+        var driverBinary = System.getProperty("webdriver.chrome.driver", "");
+        return new BrowserConfig(
+                driverBinary.isBlank() ? bundledDriver() : driverBinary,
+                Boolean.getBoolean("browser.headless"),
+                Boolean.getBoolean("browser.lean"),
+                window.isBlank() ? null : parseWindowSize(window),
+                PageLoadStrategy.fromString(System.getProperty("browser.pageLoad", "normal").toLowerCase()),
+                userDataDir.isBlank() ? null : Path.of(userDataDir)
+        );
+    }
+
+    private static String bundledDriver() {
+        var os = System.getProperty("os.name");
+        if (os.startsWith("Mac") && "x86_64".equals(System.getProperty("os.arch"))) return MAC_INTEL_DRIVER;
+        else if (os.startsWith("Windows")) return WINDOWS_DRIVER;
+        else if (os.startsWith("Linux")) return LINUX_DRIVER;
+        else return MAC_ARM_DRIVER;
+    }
+
+    private static Dimension parseWindowSize(String size) {
+        var parts = size.toLowerCase().split("x");
+        if (parts.length != 2) throw new IllegalArgumentException("Window size must look like 1280x800, got " + size);
+        return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    public ChromeOptions options() {
+        var options = new ChromeOptions();
+        if (headless) options.addArguments("--headless=new");
+        if (lean) {
+            options.addArguments(
+                    "--disable-extensions",
+                    "--disable-gpu",
+                    "--blink-settings=imagesEnabled=false",
+                    "--disable-background-networking",
+                    "--disable-sync",
+                    "--no-first-run",
+                    "--no-default-browser-check"
+            );
+        }
+        if (windowSize != null) options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (userDataDir != null) {
+            // Chrome locks its profile, so every concurrent session gets a directory of its own
+            var sessionDir = userDataDir.resolve("session-" + SESSIONS.incrementAndGet());
+            try {
+                Files.createDirectories(sessionDir);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not create user data dir " + sessionDir, e);
+            }
+            options.addArguments("--user-data-dir=" + sessionDir.toAbsolutePath());
+        }
+        return options;
+    }
+
+    /**
+     * Starts a browser and prints how long the launch took and how much memory the browser holds afterwards.
+     */
+    public WebDriver launch() {
+        var service = new ChromeDriverService.Builder()
+                .usingDriverExecutable(new File(driverBinary))
+                .usingAnyFreePort()
+                .build();
+
+        var start = System.nanoTime();
+        var driver = new ChromeDriver(service, options());
+        var startup = Duration.ofNanos(System.nanoTime() - start);
+
+        var rss = residentSetSize(service.getUrl().getPort());
+        System.out.printf("Chrome started in %d ms, RSS %s%n", startup.toMillis(),
+                rss.map(bytes -> bytes / (1024 * 1024) + " MB").orElse("n/a"));
+        return driver;
+    }
+
+    // chromedriver plus every browser process under it; only available where /proc is
+    private static Optional<Long> residentSetSize(int driverPort) {
+        var driverProcess = ProcessHandle.current().descendants()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains("--port=" + driverPort))
+                        .orElse(false))
+                .findFirst();
+        if (driverProcess.isEmpty() || !Files.isDirectory(Path.of("/proc"))) return Optional.empty();
+        return Optional.of(Stream.concat(driverProcess.stream(), driverProcess.get().descendants())
+                .mapToLong(process -> residentSetSize(process.pid()))
+                .sum());
+    }
+
+    private static long residentSetSize(long pid) {
+        try (var lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .findFirst()
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            // the process exited in the meantime
+            return 0;
+        }
+    }
+}
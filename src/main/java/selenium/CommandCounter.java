@@ -0,0 +1,69 @@
+package selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Counts the calls made through a decorated driver that turn into a WebDriver command, per thread,
+ * so a test can tell how many round-trips to the browser it needed.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private record LocalCall(Class<?> type, String name) {
+
+        boolean matches(Method method) {
+            return name.equals(method.getName()) && type.isAssignableFrom(method.getDeclaringClass());
+        }
+    }
+
+    // calls answered by the client itself, without talking to the browser; matched on the declaring type as well,
+    // since e.g. Options.window() is local but TargetLocator.window(String) switches windows in the browser
+    private static final List<LocalCall> LOCAL_CALLS = List.of(
+            new LocalCall(WebDriver.class, "manage"),
+            new LocalCall(WebDriver.class, "switchTo"),
+            new LocalCall(WebDriver.class, "navigate"),
+            new LocalCall(WebDriver.Options.class, "window"),
+            new LocalCall(WebDriver.Options.class, "timeouts"),
+            new LocalCall(WebDriver.Options.class, "logs"),
+            new LocalCall(WrapsDriver.class, "getWrappedDriver"),
+            new LocalCall(WrapsElement.class, "getWrappedElement"),
+            new LocalCall(Object.class, "toString"),
+            new LocalCall(Object.class, "hashCode"),
+            new LocalCall(Object.class, "equals")
+    );
+
+    private final ThreadLocal<long[]> commands = ThreadLocal.withInitial(() -> new long[1]);
+
+    public WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(this).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method)) commands.get()[0]++;
+    }
+
+    /**
+     * Whether calling the method sends a command to the browser.
+     */
+    static boolean isCommand(Method method) {
+        return LOCAL_CALLS.stream().noneMatch(call -> call.matches(method));
+    }
+
+    /**
+     * Commands sent from the current thread since the last {@link #reset()}.
+     */
+    public long count() {
+        return commands.get()[0];
+    }
+
+    public void reset() {
+        commands.get()[0] = 0;
+    }
+}
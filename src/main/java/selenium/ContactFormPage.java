@@ -0,0 +1,174 @@
+package selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Page object for the contact form. Every element is waited for once per page load and the handle is reused
+ * until the page changes, which the driver reports as a stale element.
+ */
+public class ContactFormPage {
+
+    public enum Field {
+        NAME("Name", "input[type='text']"),
+        EMAIL("Email", "input[type='email']"),
+        ADDRESS("Address", "textarea"),
+        PHONE("Phone number", "input[type='text']"),
+        COMMENTS("Comments", "textarea");
+
+        private final String label;
+        private final By input;
+        private final By alert;
+
+        Field(String label, String inputSelector) {
+            this.label = label;
+            // attribute selectors instead of document-wide //*[contains(@data-params, ...)] scans,
+            // and the input and alert are reached in the same lookup as their section
+            this.input = By.cssSelector("[data-params*='\"" + label + "\"'] " + inputSelector);
+            this.alert = By.cssSelector("[data-params*='\"" + label + "\"'] [role='alert']");
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    public enum FillMode {
+        /** Clicks into every field and types the value key by key, like a user would. */
+        KEYSTROKES,
+        /** Sets every value with a single script and fires the events the form listens for. */
+        BULK;
+
+        /**
+         * Mode taken from the "form.fill.mode" system property, keystrokes by default.
+         */
+        public static FillMode configured() {
+            return valueOf(System.getProperty("form.fill.mode", KEYSTROKES.name()).toUpperCase());
+        }
+    }
+
+    public enum FillStatus { FILLED, SKIPPED, MISSING, DISABLED }
+
+    // looks every field up by its data-params label and sets it the way the form's own listeners expect
+    private static final String BULK_FILL_SCRIPT = """
+            var values = arguments[0], status = {};
+            Object.keys(values).forEach(function (label) {
+              var section = document.querySelector('[data-params*=' + JSON.stringify('"' + label + '"') + ']');
+              var field = section && section.querySelector('input:not([type=hidden]), textarea');
+              if (!field) { status[label] = 'MISSING'; return; }
+              if (field.disabled || field.readOnly) { status[label] = 'DISABLED'; return; }
+              if (!values[label]) { status[label] = 'SKIPPED'; return; }
+              // go through the prototype setter so frameworks tracking the value see the change
+              var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value').set;
+              field.focus();
+              setter.call(field, values[label]);
+              field.dispatchEvent(new Event('input', {bubbles: true}));
+              field.dispatchEvent(new Event('change', {bubbles: true}));
+              field.blur();
+              status[label] = 'FILLED';
+            });
+            return status;
+            """;
+
+    // no CSS equivalent for matching on text, but it's only resolved once per page
+    private static final By SUBMIT = By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]");
+
+    private final WebDriver driver;
+    private final Readiness readiness;
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    public ContactFormPage(WebDriver driver, Readiness readiness) {
+        this.driver = driver;
+        this.readiness = readiness;
+    }
+
+    public ContactFormPage open(String url) {
+        LatencyRecorder.step("navigate");
+        driver.get(url);
+        elements.clear();
+        return this;
+    }
+
+    public ContactFormPage chooseOption(String option) {
+        LatencyRecorder.step("option");
+        withElement(By.cssSelector("[role='radio'][data-value='" + option + "']"), "option", radio -> {
+            radio.click();
+            return null;
+        });
+        return this;
+    }
+
+    /**
+     * Types the value into the field. Empty values leave the field untouched, as typing nothing would.
+     */
+    public ContactFormPage fill(Field field, String value) {
+        if (value == null || value.isEmpty()) return this;
+        LatencyRecorder.step("fill " + field.label());
+        withElement(field.input, field.label(), input -> {
+            input.sendKeys(value);
+            return null;
+        });
+        return this;
+    }
+
+    /**
+     * Fills all given fields in the given mode and reports what happened to each of them.
+     */
+    public Map<Field, FillStatus> fillAll(Map<Field, String> values, FillMode mode) {
+        var statuses = new EnumMap<Field, FillStatus>(Field.class);
+        if (mode == FillMode.BULK) {
+            LatencyRecorder.step("bulk fill");
+            var byLabel = new HashMap<String, String>();
+            values.forEach((field, value) -> byLabel.put(field.label(), value == null ? "" : value));
+            @SuppressWarnings("unchecked")
+            var result = (Map<String, String>) ((JavascriptExecutor) driver).executeScript(BULK_FILL_SCRIPT, byLabel);
+            values.keySet().forEach(field -> statuses.put(field, FillStatus.valueOf(result.get(field.label()))));
+        } else {
+            values.forEach((field, value) -> {
+                fill(field, value);
+                statuses.put(field, value == null || value.isEmpty() ? FillStatus.SKIPPED : FillStatus.FILLED);
+            });
+        }
+        return statuses;
+    }
+
+    public void submit() {
+        LatencyRecorder.step("submit");
+        withElement(SUBMIT, "submit", button -> {
+            button.click();
+            return null;
+        });
+    }
+
+    /**
+     * The validation message shown in the field's section.
+     */
+    public WebElement alert(Field field) {
+        LatencyRecorder.step("alert");
+        return readiness.visible(field.alert, field.label() + " alert");
+    }
+
+    public boolean isConfirmationShown() {
+        LatencyRecorder.step("confirmation");
+        return driver.getPageSource().contains(FormServer.THANKS_MESSAGE);
+    }
+
+    // the first use of an element waits for it to become clickable, later uses go straight to the cached handle
+    private <T> T withElement(By locator, String step, Function<WebElement, T> action) {
+        try {
+            return action.apply(elements.computeIfAbsent(locator, key -> readiness.clickable(key, step)));
+        } catch (StaleElementReferenceException e) {
+            // the page was reloaded or replaced, every cached handle is gone with it
+            elements.clear();
+            return action.apply(elements.computeIfAbsent(locator, key -> readiness.clickable(key, step)));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Keeps a fixed number of warm browser sessions and leases them out one at a time,
+ * so a suite pays for the browser launch once instead of once per test.
+ */
+public class DriverPool implements AutoCloseable {
+
+    private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(2);
+    // kept back for the OS and the test JVM when only the total memory size is known
+    private static final long MEMORY_RESERVE_BYTES = 1024L * 1024 * 1024;
+
+    private final Supplier<WebDriver> factory;
+    // an empty slot stands for a session that could not be replaced yet; it is relaunched by the next lease
+    private final LinkedBlockingQueue<Slot> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> sessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private record Slot(WebDriver driver) {
+
+        static final Slot EMPTY = new Slot(null);
+    }
+
+    public DriverPool(int size, Supplier<WebDriver> factory) {
+        if (size < 1) throw new IllegalArgumentException("Pool size must be at least 1, got " + size);
+        this.factory = factory;
+        // browsers are launched side by side, startup is dominated by waiting on the chromedriver process
+        var executor = Executors.newFixedThreadPool(size);
+        try {
+            var launches = IntStream.range(0, size)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(this::launch, executor))
+                    .toList();
+            RuntimeException failure = null;
+            for (var launch : launches) {
+                try {
+                    idle.add(new Slot(launch.join()));
+                } catch (CompletionException e) {
+                    if (failure == null) failure = launchFailure(e.getCause());
+                }
+            }
+            if (failure != null) {
+                // quit the browsers that did start, nobody else holds a reference to them
+                close();
+                throw failure;
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static RuntimeException launchFailure(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new WebDriverException("Could not launch a browser", cause);
+    }
+
+    /**
+     * Pool size taken from the "driver.pool.size" system property. By default, as many sessions as there are
+     * cores, capped by how many browsers of "browser.memory.mb" (512 by default) fit into available physical memory.
+     * Decided once per JVM and printed together with the reason.
+     */
+    public static int configuredSize() {
+        return ConfiguredSize.VALUE;
+    }
+
+    // holder, so the pool and the test parallelism agree on one size and it is printed once
+    private static final class ConfiguredSize {
+        static final int VALUE = decideSize();
+    }
+
+    private record Memory(long bytes, String source) {
+    }
+
+    private static int decideSize() {
+        var explicit = Integer.getInteger("driver.pool.size");
+        if (explicit != null) {
+            System.out.printf("Driver pool: %d session(s), set by driver.pool.size%n", explicit);
+            return explicit;
+        }
+        var cores = Runtime.getRuntime().availableProcessors();
+        var perBrowserMb = Long.getLong("browser.memory.mb", 512);
+        var memory = availableMemory();
+        if (memory == null) {
+            System.out.printf("Driver pool: %d session(s), one per core, available memory unknown%n", cores);
+            return cores;
+        }
+        var byMemory = (int) Math.min(Integer.MAX_VALUE, memory.bytes() / (perBrowserMb * 1024 * 1024));
+        var size = Math.max(1, Math.min(cores, byMemory));
+        System.out.printf("Driver pool: %d session(s), %d core(s), %d MB %s fit %d browser(s) of %d MB%n",
+                size, cores, memory.bytes() / (1024 * 1024), memory.source(), byMemory, perBrowserMb);
+        return size;
+    }
+
+    // MemAvailable counts the page cache the kernel can reclaim; free memory (MemFree) leaves it out and is
+    // often a small fraction of what a long-running host can actually hand to new browsers
+    private static Memory availableMemory() {
+        try (var lines = Files.lines(Path.of("/proc/meminfo"))) {
+            var available = lines.filter(line -> line.startsWith("MemAvailable:")).findFirst();
+            if (available.isPresent()) {
+                var kb = Long.parseLong(available.get().replaceAll("\\D", ""));
+                return new Memory(kb * 1024, "available");
+            }
+        } catch (IOException | UncheckedIOException | NumberFormatException e) {
+            // not Linux, or an unexpected format; estimate from the total below
+        }
+        var os = ManagementFactory.getOperatingSystemMXBean();
+        if (!(os instanceof com.sun.management.OperatingSystemMXBean memory)) return null;
+        return new Memory(Math.max(0, memory.getTotalMemorySize() - MEMORY_RESERVE_BYTES), "total less 1 GB reserve");
+    }
+
+    /**
+     * Takes an idle session, replacing it first if the browser behind it has died. When no browser can be launched
+     * in its place, the slot stays in the pool for the next lease and the launch failure is thrown.
+     */
+    public WebDriver lease() {
+        if (closed) throw new IllegalStateException("Driver pool is closed");
+        Slot slot;
+        try {
+            slot = idle.poll(LEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver", e);
+        }
+        if (slot == null) throw new IllegalStateException("No driver became available within " + LEASE_TIMEOUT);
+        if (slot.driver() != null && isAlive(slot.driver())) return slot.driver();
+        if (slot.driver() != null) discard(slot.driver());
+        try {
+            return launch();
+        } catch (RuntimeException e) {
+            idle.add(Slot.EMPTY);
+            throw e;
+        }
+    }
+
+    /**
+     * Wipes the session state left behind by a test and puts the session back into the pool. A session that cannot
+     * be reset is quit and its slot is relaunched by the next lease.
+     */
+    public void release(WebDriver driver) {
+        if (closed) {
+            discard(driver);
+            return;
+        }
+        try {
+            reset(driver);
+            idle.add(new Slot(driver));
+        } catch (WebDriverException e) {
+            discard(driver);
+            idle.add(Slot.EMPTY);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        idle.clear();
+        sessions.forEach(this::discard);
+    }
+
+    private void reset(WebDriver driver) {
+        // close any windows the test opened, keeping the first one
+        var handles = driver.getWindowHandles();
+        var first = handles.iterator().next();
+        for (var handle : handles) {
+            if (!handle.equals(first)) driver.switchTo().window(handle).close();
+        }
+        driver.switchTo().window(first);
+
+        // cookies and storage can only be cleared for the current origin, so do it before leaving the page
+        driver.manage().deleteAllCookies();
+        if (driver instanceof HasCdp cdp) cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.get("about:blank");
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private WebDriver launch() {
+        var driver = factory.get();
+        sessions.add(driver);
+        return driver;
+    }
+
+    private void discard(WebDriver driver) {
+        sessions.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // the browser is already gone
+        }
+    }
+}
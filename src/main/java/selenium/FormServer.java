@@ -0,0 +1,282 @@
+package selenium;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the Google Forms contact form. It serves the same markup the tests rely on
+ * (data-params sections, role='button' submit, role='alert' validation messages) and validates submissions
+ * both in the page and on POST, so the suite can run without reaching docs.google.com.
+ */
+public class FormServer implements AutoCloseable {
+
+    public static final String GOOGLE_FORM_URL = "https://docs.google.com/forms/d/e/1FAIpQLScVG7idLWR8sxNQygSnLuhehUNVFti0FnVviWCSjDh-JNhsMA/viewform";
+    public static final String THANKS_MESSAGE = "Thanks for submitting your contact info!";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
+
+    private enum Type { CHOICE, TEXT, EMAIL, PARAGRAPH }
+
+    private record Question(int id, int entry, String title, Type type, boolean required, List<String> options) {
+    }
+
+    private record Language(String code, String submit, String required, String invalidEmail) {
+    }
+
+    private static final List<Question> QUESTIONS = List.of(
+            new Question(11, 1000, "Choose an option", Type.CHOICE, false, List.of("Option 1", "Option 2", "Option 3")),
+            new Question(12, 1001, "Name", Type.TEXT, true, List.of()),
+            new Question(13, 1002, "Email", Type.EMAIL, true, List.of()),
+            new Question(14, 1003, "Address", Type.PARAGRAPH, true, List.of()),
+            new Question(15, 1004, "Phone number", Type.TEXT, false, List.of()),
+            new Question(16, 1005, "Comments", Type.PARAGRAPH, false, List.of())
+    );
+
+    private static final Language ENGLISH = new Language("en", "Submit", "This is a required question", "Please enter a valid email address");
+    private static final Language ESTONIAN = new Language("et", "Saada ära", "See on kohustuslik küsimus", "Sisestage kehtiv e-posti aadress");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+
+    private FormServer(HttpServer server, ExecutorService executor, Duration latency) {
+        this.server = server;
+        this.executor = executor;
+        this.latency = latency;
+    }
+
+    /**
+     * Starts a server on the given port (0 picks a free one) that delays every response by the given latency.
+     */
+    public static FormServer start(int port, Duration latency) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        var executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "form-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var formServer = new FormServer(server, executor, latency);
+        server.createContext("/", formServer::handle);
+        server.setExecutor(executor);
+        server.start();
+        return formServer;
+    }
+
+    /**
+     * Starts a server configured by the "form.port" and "form.latency.ms" system properties.
+     */
+    public static FormServer startConfigured() {
+        try {
+            return start(Integer.getInteger("form.port", 0), Duration.ofMillis(Long.getLong("form.latency.ms", 0)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the local form server", e);
+        }
+    }
+
+    /**
+     * Starts the configured local server, or nothing when the run targets the real Google form.
+     */
+    public static FormServer startUnlessRemote(boolean remote) {
+        return remote ? null : startConfigured();
+    }
+
+    /**
+     * Like {@link #startUnlessRemote(boolean)}, with "-Dform.remote=true" selecting the real form.
+     */
+    public static FormServer startUnlessRemote() {
+        return startUnlessRemote(Boolean.getBoolean("form.remote"));
+    }
+
+    /**
+     * The form to submit to: the given local server's, or the real Google form when there is none.
+     */
+    public static String targetUrl(FormServer server) {
+        return server == null ? GOOGLE_FORM_URL : server.formUrl();
+    }
+
+    public String formUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/viewform";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!latency.isZero()) Thread.sleep(latency.toMillis());
+
+            var path = exchange.getRequestURI().getPath();
+            var language = "et".equals(queryParameters(exchange).get("hl")) ? ESTONIAN : ENGLISH;
+            if (path.endsWith("/viewform") && "GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, renderForm(language, Map.of(), Map.of()));
+            } else if (path.endsWith("/formResponse") && "POST".equals(exchange.getRequestMethod())) {
+                var values = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                var errors = validate(language, values);
+                if (errors.isEmpty()) respond(exchange, 200, renderThanks());
+                else respond(exchange, 400, renderForm(language, values, errors));
+            } else {
+                respond(exchange, 404, "<!DOCTYPE html><html><body>Not found</body></html>");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<Integer, String> validate(Language language, Map<String, String> values) {
+        var errors = new HashMap<Integer, String>();
+        for (var question : QUESTIONS) {
+            var value = values.getOrDefault("entry." + question.entry(), "").trim();
+            if (question.required() && value.isEmpty()) errors.put(question.entry(), language.required());
+            else if (question.type() == Type.EMAIL && !value.isEmpty() && !EMAIL.matcher(value).matches()) errors.put(question.entry(), language.invalidEmail());
+        }
+        return errors;
+    }
+
+    private static String renderForm(Language language, Map<String, String> values, Map<Integer, String> errors) {
+        var html = new StringBuilder();
+        html.append("<!DOCTYPE html><html lang=\"").append(language.code()).append("\"><head><meta charset=\"utf-8\">")
+                .append("<title>Contact information</title></head><body>")
+                .append("<form id=\"contact\" action=\"formResponse").append(language == ESTONIAN ? "?hl=et" : "")
+                .append("\" method=\"POST\" novalidate>");
+
+        for (var question : QUESTIONS) {
+            var name = "entry." + question.entry();
+            var value = escape(values.getOrDefault(name, ""));
+            html.append("<div class=\"question\" data-type=\"").append(question.type().name().toLowerCase())
+                    .append("\" data-required=\"").append(question.required())
+                    .append("\" data-params='").append(escape(dataParams(question))).append("'>")
+                    .append("<div class=\"title\">").append(escape(question.title())).append(question.required() ? " *" : "").append("</div>");
+            switch (question.type()) {
+                case CHOICE -> {
+                    html.append("<input type=\"hidden\" name=\"").append(name).append("\" value=\"").append(value).append("\">")
+                            .append("<div role=\"radiogroup\">");
+                    for (var option : question.options()) {
+                        html.append("<div role=\"radio\" tabindex=\"0\" data-value=\"").append(escape(option))
+                                .append("\" aria-checked=\"").append(option.equals(values.get(name))).append("\">")
+                                .append("<span>").append(escape(option)).append("</span></div>");
+                    }
+                    html.append("</div>");
+                }
+                case TEXT -> html.append("<input type=\"text\" name=\"").append(name).append("\" value=\"").append(value).append("\">");
+                case EMAIL -> html.append("<input type=\"email\" name=\"").append(name).append("\" value=\"").append(value).append("\">");
+                case PARAGRAPH -> html.append("<textarea name=\"").append(name).append("\">").append(value).append("</textarea>");
+            }
+            var error = errors.get(question.entry());
+            if (error != null) html.append("<div role=\"alert\">").append(escape(error)).append("</div>");
+            html.append("</div>");
+        }
+
+        html.append("<div id=\"submit\" role=\"button\" tabindex=\"0\"><span><span>").append(escape(language.submit())).append("</span></span></div>")
+                .append("</form>")
+                .append(script(language))
+                .append("</body></html>");
+        return html.toString();
+    }
+
+    // same shape as Google's: [question id, title, description, type, [[entry id, options, required]]]
+    private static String dataParams(Question question) {
+        var options = question.options().isEmpty() ? "null" : question.options().stream()
+                .map(option -> "[\"" + option + "\"]")
+                .reduce((a, b) -> a + "," + b)
+                .map(joined -> "[" + joined + "]")
+                .orElseThrow();
+        return "%.@.[" + question.id() + ",\"" + question.title() + "\",null," + question.type().ordinal()
+                + ",[[" + question.entry() + "," + options + "," + (question.required() ? 1 : 0) + "]]]";
+    }
+
+    private static String script(Language language) {
+        return """
+                <script>
+                (function () {
+                  var REQUIRED = '%s', INVALID_EMAIL = '%s';
+                  document.querySelectorAll('[role=radio]').forEach(function (radio) {
+                    radio.addEventListener('click', function () {
+                      var section = radio.closest('[data-params]');
+                      section.querySelectorAll('[role=radio]').forEach(function (other) {
+                        other.setAttribute('aria-checked', other === radio ? 'true' : 'false');
+                      });
+                      section.querySelector('input[type=hidden]').value = radio.getAttribute('data-value');
+                    });
+                  });
+                  function validate(section) {
+                    var field = section.querySelector('input:not([type=hidden]), textarea');
+                    if (!field) return null;
+                    var value = field.value.trim();
+                    if (section.getAttribute('data-required') === 'true' && !value) return REQUIRED;
+                    if (section.getAttribute('data-type') === 'email' && value && !/^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$/.test(value)) return INVALID_EMAIL;
+                    return null;
+                  }
+                  document.getElementById('submit').addEventListener('click', function () {
+                    var valid = true;
+                    document.querySelectorAll('[data-params]').forEach(function (section) {
+                      var previous = section.querySelector('[role=alert]');
+                      if (previous) previous.remove();
+                      var message = validate(section);
+                      if (message) {
+                        valid = false;
+                        var alert = document.createElement('div');
+                        alert.setAttribute('role', 'alert');
+                        alert.textContent = message;
+                        section.appendChild(alert);
+                      }
+                    });
+                    if (valid) document.getElementById('contact').submit();
+                  });
+                })();
+                </script>
+                """.formatted(language.required(), language.invalidEmail());
+    }
+
+    private static String renderThanks() {
+        return "<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\"><title>Contact information</title></head><body>"
+                + "<div class=\"confirmation\">" + THANKS_MESSAGE + "</div>"
+                + "<a href=\"viewform\">Submit another response</a>"
+                + "</body></html>";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String html) throws IOException {
+        var body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static Map<String, String> queryParameters(HttpExchange exchange) {
+        var query = exchange.getRequestURI().getRawQuery();
+        return query == null ? Map.of() : parseForm(query);
+    }
+
+    static Map<String, String> parseForm(String encoded) {
+        var values = new LinkedHashMap<String, String>();
+        for (var pair : encoded.split("&")) {
+            if (pair.isEmpty()) continue;
+            var separator = pair.indexOf('=');
+            var key = separator < 0 ? pair : pair.substring(0, separator);
+            var value = separator < 0 ? "" : pair.substring(separator + 1);
+            values.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
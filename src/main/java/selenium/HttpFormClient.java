@@ -0,0 +1,157 @@
+package selenium;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Submits the contact form over plain HTTP, without a browser. The form page is read once to learn the entry
+ * ids behind each question; after that every submission is a single POST on a shared, connection-reusing client.
+ */
+public class HttpFormClient {
+
+    /**
+     * A loaded form: where it posts to, its questions and the hidden fields that have to be sent back.
+     */
+    public record Form(URI action, List<Question> questions, Map<String, String> hiddenFields) {
+
+        /**
+         * The entry id of the question with the given title.
+         */
+        public Optional<String> entry(String title) {
+            return questions.stream().filter(question -> question.title().equals(title)).map(Question::entry).findFirst();
+        }
+
+        /**
+         * The entry id of the choice question offering the given option.
+         */
+        public Optional<String> entryOffering(String option) {
+            return questions.stream().filter(question -> question.params().contains("[\"" + option + "\"")).map(Question::entry).findFirst();
+        }
+    }
+
+    public record Question(String title, String entry, String params) {
+    }
+
+    /**
+     * What the form answered: whether it confirmed the submission and the validation message per question title.
+     */
+    public record Result(int status, boolean confirmed, Map<String, String> alerts) {
+    }
+
+    private static final Pattern DATA_PARAMS = Pattern.compile("data-params=(['\"])(.*?)\\1", Pattern.DOTALL);
+    // [question id, "title", description, type, [[entry id, ...
+    private static final Pattern QUESTION = Pattern.compile("^%\\.@\\.\\[\\d+,\"((?:[^\"\\\\]|\\\\.)*)\",.*?\\[\\[(\\d+),", Pattern.DOTALL);
+    private static final Pattern ALERT = Pattern.compile("role=['\"]alert['\"][^>]*>\\s*([^<]+)<");
+    private static final Pattern FORM_ACTION = Pattern.compile("<form[^>]*\\saction=['\"]([^'\"]+)['\"]");
+    private static final Pattern HIDDEN_INPUT = Pattern.compile("<input[^>]*type=['\"]hidden['\"][^>]*>");
+    private static final Pattern NAME = Pattern.compile("\\sname=['\"]([^'\"]*)['\"]");
+    private static final Pattern VALUE = Pattern.compile("\\svalue=['\"]([^'\"]*)['\"]");
+
+    private final HttpClient client;
+
+    public HttpFormClient(HttpClient client) {
+        this.client = client;
+    }
+
+    public static HttpFormClient create() {
+        return new HttpFormClient(HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
+
+    public Form load(String formUrl) {
+        var uri = URI.create(formUrl);
+        var html = send(HttpRequest.newBuilder(uri).GET().build()).body();
+
+        var questions = new ArrayList<Question>();
+        var params = DATA_PARAMS.matcher(html);
+        while (params.find()) {
+            var decoded = unescape(params.group(2));
+            var question = QUESTION.matcher(decoded);
+            if (question.find()) questions.add(new Question(question.group(1), "entry." + question.group(2), decoded));
+        }
+        if (questions.isEmpty()) throw new IllegalStateException("No questions found on " + formUrl);
+
+        var hidden = new LinkedHashMap<String, String>();
+        var inputs = HIDDEN_INPUT.matcher(html);
+        while (inputs.find()) {
+            var name = NAME.matcher(inputs.group());
+            var value = VALUE.matcher(inputs.group());
+            if (name.find()) hidden.put(unescape(name.group(1)), value.find() ? unescape(value.group(1)) : "");
+        }
+
+        var action = FORM_ACTION.matcher(html);
+        var target = action.find() ? uri.resolve(unescape(action.group(1))) : uri.resolve("formResponse");
+        return new Form(target, List.copyOf(questions), Map.copyOf(hidden));
+    }
+
+    /**
+     * Posts the answers, given by entry id, together with the form's hidden fields.
+     */
+    public CompletableFuture<Result> submitAsync(Form form, Map<String, String> answers) {
+        var fields = new LinkedHashMap<>(form.hiddenFields());
+        fields.putAll(answers);
+        var body = fields.entrySet().stream()
+                .map(field -> URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        var request = HttpRequest.newBuilder(form.action())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> new Result(response.statusCode(),
+                        response.body().contains(FormServer.THANKS_MESSAGE), alerts(response.body())));
+    }
+
+    public Result submit(Form form, Map<String, String> answers) {
+        return submitAsync(form, answers).join();
+    }
+
+    // the validation message inside each question's section, keyed by the question title
+    private static Map<String, String> alerts(String html) {
+        var alerts = new LinkedHashMap<String, String>();
+        var sections = DATA_PARAMS.matcher(html);
+        var starts = new ArrayList<MatchResult>();
+        while (sections.find()) starts.add(sections.toMatchResult());
+        for (int i = 0; i < starts.size(); i++) {
+            var question = QUESTION.matcher(unescape(starts.get(i).group(2)));
+            if (!question.find()) continue;
+            var end = i + 1 < starts.size() ? starts.get(i + 1).start() : html.length();
+            var alert = ALERT.matcher(html.substring(starts.get(i).end(), end));
+            if (alert.find()) alerts.put(question.group(1), unescape(alert.group(1).trim()));
+        }
+        return alerts;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request to " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while requesting " + request.uri(), e);
+        }
+    }
+
+    private static String unescape(String html) {
+        return html.replace("&quot;", "\"").replace("&#39;", "'").replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,74 @@
+package selenium;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Times every WebDriver command made through a decorated driver and tags it with the scenario and step
+ * the calling thread is in.
+ */
+public class LatencyRecorder implements WebDriverListener {
+
+    public record Sample(String scenario, String step, String command, long nanos) {
+    }
+
+    private static final ThreadLocal<String> SCENARIO = ThreadLocal.withInitial(() -> "-");
+    private static final ThreadLocal<String> STEP = ThreadLocal.withInitial(() -> "-");
+
+    private final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Tags the commands the current thread sends from now on with the given scenario.
+     */
+    public static void scenario(String name) {
+        SCENARIO.set(name);
+    }
+
+    /**
+     * Tags the commands the current thread sends from now on with the given step.
+     */
+    public static void step(String name) {
+        STEP.set(name);
+    }
+
+    /**
+     * Drops the current thread's tags, so commands it sends for the next test are not booked on this one.
+     */
+    public static void clear() {
+        SCENARIO.remove();
+        STEP.remove();
+    }
+
+    public List<Sample> samples() {
+        return List.copyOf(samples);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (CommandCounter.isCommand(method)) started.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finished(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finished(method);
+    }
+
+    private void finished(Method method) {
+        if (!CommandCounter.isCommand(method)) return;
+        var start = started.get().poll();
+        if (start != null) samples.add(new Sample(SCENARIO.get(), STEP.get(), method.getName(), System.nanoTime() - start));
+    }
+}
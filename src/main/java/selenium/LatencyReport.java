@@ -0,0 +1,180 @@
+package selenium;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Latency percentiles per scenario, step and command, compared against a stored baseline. Written as CSV for tools
+ * and as a Markdown page that "mvn site" renders next to the surefire report.
+ */
+public class LatencyReport {
+
+    public record Row(String scenario, String step, String command, int count, double p50, double p95, double p99, double max) {
+
+        String key() {
+            return cell(scenario) + "/" + step + "/" + command;
+        }
+    }
+
+    private static final String CSV_HEADER = "scenario,step,command,count,p50_ms,p95_ms,p99_ms,max_ms";
+    // differences below this are noise, whatever the relative change
+    private static final double NOISE_FLOOR_MS = 1.0;
+
+    private final List<Row> rows;
+    private final Map<String, Row> baseline;
+    private final double tolerance;
+
+    private LatencyReport(List<Row> rows, Map<String, Row> baseline, double tolerance) {
+        this.rows = rows;
+        this.baseline = baseline;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Aggregates the samples and compares them with the baseline file, which may not exist yet. A step of a scenario
+     * regresses when its p95 is more than the tolerance (e.g. 0.2 for 20%) above the baseline's for the same scenario.
+     */
+    public static LatencyReport of(Collection<LatencyRecorder.Sample> samples, Path baselineFile, double tolerance) {
+        var rows = samples.stream()
+                .collect(Collectors.groupingBy(sample -> List.of(sample.scenario(), sample.step(), sample.command()), LinkedHashMap::new,
+                        Collectors.mapping(LatencyRecorder.Sample::nanos, Collectors.toList())))
+                .entrySet().stream()
+                .map(entry -> row(entry.getKey().get(0), entry.getKey().get(1), entry.getKey().get(2), entry.getValue()))
+                .sorted(Comparator.comparing(Row::scenario).thenComparing(Row::step).thenComparing(Row::command))
+                .toList();
+        return new LatencyReport(rows, Files.exists(baselineFile) ? readCsv(baselineFile) : Map.of(), tolerance);
+    }
+
+    /**
+     * Report over the samples, configured by "latency.baseline" (latency-baseline.csv) and "latency.tolerance" (0.2).
+     */
+    public static LatencyReport configured(Collection<LatencyRecorder.Sample> samples) {
+        return of(samples, baselineFile(), Double.parseDouble(System.getProperty("latency.tolerance", "0.2")));
+    }
+
+    private static Path baselineFile() {
+        return Path.of(System.getProperty("latency.baseline", "latency-baseline.csv"));
+    }
+
+    private static Row row(String scenario, String step, String command, List<Long> nanos) {
+        var sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return new Row(scenario, step, command, sorted.length,
+                millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        return Percentiles.nearestRank(sortedNanos, percentile) / 1e6;
+    }
+
+    public List<Row> rows() {
+        return rows;
+    }
+
+    public List<String> regressions() {
+        var regressions = new ArrayList<String>();
+        for (var row : rows) {
+            var before = baseline.get(row.key());
+            if (before == null) continue;
+            if (row.p95() > before.p95() * (1 + tolerance) && row.p95() - before.p95() >= NOISE_FLOOR_MS) {
+                regressions.add(String.format("%s p95 %.1f ms, baseline %.1f ms", row.key(), row.p95(), before.p95()));
+            }
+        }
+        return regressions;
+    }
+
+    public void writeCsv(Path file) {
+        var lines = new ArrayList<String>();
+        lines.add(CSV_HEADER);
+        rows.forEach(row -> lines.add(String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f,%.3f,%.3f,%.3f",
+                cell(row.scenario()), row.step(), row.command(), row.count(), row.p50(), row.p95(), row.p99(), row.max())));
+        write(file, lines);
+    }
+
+    public void writeMarkdown(Path file) {
+        var lines = new ArrayList<String>();
+        lines.add("# WebDriver latency");
+        lines.add("");
+        lines.add("Latency of every WebDriver command by scenario and step, in milliseconds.");
+        lines.add("");
+        var regressions = regressions();
+        if (baseline.isEmpty()) {
+            lines.add("No baseline to compare against.");
+        } else if (regressions.isEmpty()) {
+            lines.add(String.format("No regressions against the baseline (tolerance %.0f%%).", tolerance * 100));
+        } else {
+            lines.add(String.format("**%d regression(s) against the baseline** (tolerance %.0f%%):", regressions.size(), tolerance * 100));
+            lines.add("");
+            regressions.forEach(regression -> lines.add("* " + regression));
+        }
+        var byScenario = rows.stream().collect(Collectors.groupingBy(Row::scenario, LinkedHashMap::new, Collectors.toList()));
+        byScenario.forEach((scenario, scenarioRows) -> {
+            lines.add("");
+            lines.add("## " + scenario);
+            lines.add("");
+            lines.add("| Step | Command | Count | p50 | p95 | p99 | Max | Baseline p95 |");
+            lines.add("|---|---|---:|---:|---:|---:|---:|---:|");
+            for (var row : scenarioRows) {
+                var before = baseline.get(row.key());
+                lines.add(String.format("| %s | %s | %d | %.1f | %.1f | %.1f | %.1f | %s |",
+                        row.step(), row.command(), row.count(), row.p50(), row.p95(), row.p99(), row.max(),
+                        before == null ? "-" : String.format("%.1f", before.p95())));
+            }
+        });
+        write(file, lines);
+    }
+
+    /**
+     * Replaces the baseline with the given report file.
+     */
+    public static void updateBaseline(Path csv) {
+        try {
+            Files.copy(csv, baselineFile(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not update the latency baseline", e);
+        }
+    }
+
+    // scenario names come from the scenario file and may contain the separator
+    private static String cell(String text) {
+        return text.replace(',', ';');
+    }
+
+    private static Map<String, Row> readCsv(Path file) {
+        try (var lines = Files.lines(file)) {
+            var all = lines.filter(line -> !line.isBlank()).toList();
+            if (all.isEmpty() || !all.get(0).equals(CSV_HEADER)) {
+                System.out.println("Ignoring latency baseline " + file + " in an older format, store a new one with -Dlatency.updateBaseline=true");
+                return Map.of();
+            }
+            return all.stream().skip(1)
+                    .map(line -> line.split(","))
+                    .map(cells -> new Row(cells[0], cells[1], cells[2], Integer.parseInt(cells[3]), Double.parseDouble(cells[4]),
+                            Double.parseDouble(cells[5]), Double.parseDouble(cells[6]), Double.parseDouble(cells[7])))
+                    .collect(Collectors.toMap(Row::key, row -> row));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the latency baseline " + file, e);
+        }
+    }
+
+    private static void write(Path file, List<String> lines) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package selenium;
+
+import org.openqa.selenium.WebDriver;
+import selenium.ContactFormPage.Field;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Submits the contact form with valid data at a target rate from a number of concurrent browser sessions,
+ * and prints throughput, error rate and end-to-end latency every second.
+ */
+public class LoadGenerator {
+
+    public record Settings(int sessions, double rate, Duration duration, String formUrl) {
+    }
+
+    private record Result(boolean success, long latencyNanos) {
+    }
+
+    private static final Map<Field, String> VALID_SUBMISSION = validSubmission();
+
+    private final Settings settings;
+    private final BrowserConfig browser;
+    private final Semaphore permits = new Semaphore(0);
+    private final Queue<Result> window = new ConcurrentLinkedQueue<>();
+    private final List<Result> all = new ArrayList<>();
+    private final AtomicInteger busy = new AtomicInteger();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private long windowStart;
+
+    public LoadGenerator(Settings settings, BrowserConfig browser) {
+        if (settings.sessions() < 1) throw new IllegalArgumentException("Need at least one session, got " + settings.sessions());
+        if (settings.rate() <= 0) throw new IllegalArgumentException("Rate must be positive, got " + settings.rate());
+        this.settings = settings;
+        this.browser = browser;
+    }
+
+    private static Map<Field, String> validSubmission() {
+        var values = new EnumMap<Field, String>(Field.class);
+        values.put(Field.NAME, "John");
+        values.put(Field.EMAIL, "test@example.com");
+        values.put(Field.ADDRESS, "Turu 2, 51004 Tartu");
+        values.put(Field.PHONE, "+37211111111");
+        values.put(Field.COMMENTS, "Lorem ipsum dolor sit amet");
+        return values;
+    }
+
+    public void run() throws InterruptedException {
+        System.out.printf("Starting %d sessions, target %.1f submissions/s for %d s against %s%n",
+                settings.sessions(), settings.rate(), settings.duration().toSeconds(), settings.formUrl());
+
+        try (var pool = new DriverPool(settings.sessions(), browser::launch)) {
+            var scheduler = Executors.newScheduledThreadPool(2);
+            var workers = Executors.newFixedThreadPool(settings.sessions());
+            var start = System.nanoTime();
+            var deadline = start + settings.duration().toNanos();
+            windowStart = start;
+
+            // one permit per submission at the target rate; a backlog beyond one per session is dropped
+            // rather than fired in a burst once sessions free up
+            var period = Math.max(1, (long) (1_000_000_000 / settings.rate()));
+            scheduler.scheduleAtFixedRate(() -> {
+                if (permits.availablePermits() < settings.sessions()) permits.release();
+            }, 0, period, TimeUnit.NANOSECONDS);
+            scheduler.scheduleAtFixedRate(() -> report(start), 1, 1, TimeUnit.SECONDS);
+
+            for (int i = 0; i < settings.sessions(); i++) {
+                workers.execute(() -> submitUntil(pool, deadline));
+            }
+            workers.shutdown();
+            workers.awaitTermination(settings.duration().toSeconds() + 120, TimeUnit.SECONDS);
+            scheduler.shutdownNow();
+            report(start);
+            summary(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void submitUntil(DriverPool pool, long deadline) {
+        while (System.nanoTime() < deadline) {
+            try {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            var start = System.nanoTime();
+            WebDriver driver;
+            try {
+                driver = pool.lease();
+            } catch (RuntimeException e) {
+                // the pool keeps the slot and tries again on the next lease
+                error("lease: " + e.getClass().getSimpleName(), e.getMessage());
+                window.add(new Result(false, System.nanoTime() - start));
+                continue;
+            }
+            busy.incrementAndGet();
+            var success = false;
+            try {
+                success = submit(driver);
+                if (!success) error("no confirmation", "the form did not show the confirmation page");
+            } catch (RuntimeException e) {
+                error(e.getClass().getSimpleName(), e.getMessage());
+            } finally {
+                window.add(new Result(success, System.nanoTime() - start));
+                busy.decrementAndGet();
+                release(pool, driver);
+            }
+        }
+    }
+
+    // a failed release must not end the worker, or the run would carry on with one session less
+    private void release(DriverPool pool, WebDriver driver) {
+        try {
+            pool.release(driver);
+        } catch (RuntimeException e) {
+            error("release: " + e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private boolean submit(WebDriver driver) {
+        var page = new ContactFormPage(driver, Readiness.configured(driver, new WaitMetrics()));
+        page.open(settings.formUrl());
+        page.chooseOption("Option 3");
+        page.fillAll(VALID_SUBMISSION, ContactFormPage.FillMode.configured());
+        page.submit();
+        return page.isConfirmationShown();
+    }
+
+    // counted per kind; the first of each kind is printed, the rest only show up in the summary
+    private void error(String kind, String message) {
+        if (errors.computeIfAbsent(kind, k -> new AtomicLong()).getAndIncrement() == 0) {
+            var firstLine = message == null ? "" : message.lines().findFirst().orElse("");
+            System.out.printf("First error of kind %s: %s%n", kind, firstLine);
+        }
+    }
+
+    private synchronized void report(long start) {
+        var now = System.nanoTime();
+        // the last window is cut short by the end of the run, so the rate is taken over its real length
+        var windowSeconds = Math.max(1, now - windowStart) / 1e9;
+        windowStart = now;
+        var results = new ArrayList<Result>();
+        for (Result result; (result = window.poll()) != null; ) results.add(result);
+        all.addAll(results);
+        var failed = results.stream().filter(result -> !result.success()).count();
+        System.out.printf("%5ds  %6.1f submissions/s  errors %5.1f%%  p50 %s  p95 %s  busy sessions %d%n",
+                Duration.ofNanos(now - start).toSeconds(), results.size() / windowSeconds, percent(failed, results.size()),
+                percentile(results, 0.50), percentile(results, 0.95), busy.get());
+    }
+
+    private synchronized void summary(Duration elapsed) {
+        var failed = all.stream().filter(result -> !result.success()).count();
+        System.out.printf("Total: %d submissions in %d s, %.2f submissions/s, errors %.1f%%, p50 %s, p95 %s, p99 %s%n",
+                all.size(), elapsed.toSeconds(), all.size() / (elapsed.toNanos() / 1e9), percent(failed, all.size()),
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99));
+        new TreeMap<>(errors).forEach((kind, count) -> System.out.printf("  %6d x %s%n", count.get(), kind));
+    }
+
+    private static double percent(long part, int total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+
+    // over the end-to-end latency of the given submissions
+    private static String percentile(List<Result> results, double percentile) {
+        if (results.isEmpty()) return "-";
+        var sorted = results.stream().mapToLong(Result::latencyNanos).toArray();
+        Arrays.sort(sorted);
+        return Percentiles.nearestRank(sorted, percentile) / 1_000_000 + " ms";
+    }
+}
@@ -0,0 +1,19 @@
+package selenium;
+
+/**
+ * Percentiles over measured durations, shared by the latency report and the load generator.
+ */
+public final class Percentiles {
+
+    private Percentiles() {
+    }
+
+    /**
+     * Nearest-rank percentile (e.g. 0.95) of the given values, which must be sorted and not empty.
+     */
+    public static long nearestRank(long[] sorted, double percentile) {
+        if (sorted.length == 0) throw new IllegalArgumentException("No values to take a percentile of");
+        var rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
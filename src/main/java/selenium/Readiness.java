@@ -0,0 +1,149 @@
+package selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Waits for elements to become usable. CSS locators are handed to the page, where a MutationObserver answers
+ * as soon as the element is there and interactive; anything else is polled with an interval that starts short
+ * and backs off. Every wait is recorded in {@link WaitMetrics} under its step name.
+ */
+public class Readiness {
+
+    // resolves with the first element that is rendered and enabled, or null once the timeout passes
+    private static final String AWAIT_INTERACTIVE_SCRIPT = """
+            var selector = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];
+            function interactive() {
+              var element = document.querySelector(selector);
+              if (!element || element.disabled) return null;
+              var style = window.getComputedStyle(element), box = element.getBoundingClientRect();
+              return style.visibility !== 'hidden' && style.display !== 'none' && box.width > 0 && box.height > 0 ? element : null;
+            }
+            var element = interactive();
+            if (element) { done(element); return; }
+            var timer;
+            var observer = new MutationObserver(function () {
+              var element = interactive();
+              if (element) { observer.disconnect(); clearTimeout(timer); done(element); }
+            });
+            observer.observe(document, {childList: true, subtree: true, attributes: true});
+            timer = setTimeout(function () { observer.disconnect(); done(null); }, timeout);
+            """;
+
+    // the session's script timeout unless changed, which bounds executeAsyncScript
+    private static final Duration DEFAULT_SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+    // leaves the page's own timer room to answer before the session gives up on the script
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(1);
+
+    private final WebDriver driver;
+    private final WaitMetrics metrics;
+    private final Duration timeout;
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final boolean push;
+    private boolean scriptTimeoutRaised;
+
+    public Readiness(WebDriver driver, WaitMetrics metrics, Duration timeout, Duration initialPoll, Duration maxPoll, boolean push) {
+        this.driver = driver;
+        this.metrics = metrics;
+        this.timeout = timeout;
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.push = push;
+    }
+
+    /**
+     * Tuned by "wait.timeout.ms" (5000), "wait.poll.initial.ms" (10), "wait.poll.max.ms" (250)
+     * and "wait.push" (true) system properties.
+     */
+    public static Readiness configured(WebDriver driver, WaitMetrics metrics) {
+        return new Readiness(driver, metrics,
+                Duration.ofMillis(Long.getLong("wait.timeout.ms", 5000)),
+                Duration.ofMillis(Long.getLong("wait.poll.initial.ms", 10)),
+                Duration.ofMillis(Long.getLong("wait.poll.max.ms", 250)),
+                Boolean.parseBoolean(System.getProperty("wait.push", "true")));
+    }
+
+    /**
+     * Waits until the element the locator points to is displayed and enabled, and returns it.
+     */
+    public WebElement clickable(By locator, String step) {
+        return await(locator, step, ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Waits until the element the locator points to is displayed, and returns it.
+     */
+    public WebElement visible(By locator, String step) {
+        return await(locator, step, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    private WebElement await(By locator, String step, Function<WebDriver, WebElement> fallback) {
+        var start = System.nanoTime();
+        try {
+            var css = cssSelector(locator);
+            if (push && css != null) {
+                raiseScriptTimeout();
+                WebElement element;
+                try {
+                    element = (WebElement) ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_INTERACTIVE_SCRIPT, css, timeout.toMillis());
+                } catch (ScriptTimeoutException e) {
+                    throw new TimeoutException("Waited " + timeout.toMillis() + " ms for " + locator, e);
+                }
+                if (element == null) throw new TimeoutException("Waited " + timeout.toMillis() + " ms for " + locator);
+                return element;
+            }
+            return poll(fallback, locator);
+        } finally {
+            metrics.record(step, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    // a wait longer than the session's script timeout would otherwise end in a ScriptTimeoutException
+    private void raiseScriptTimeout() {
+        if (scriptTimeoutRaised || timeout.plus(SCRIPT_TIMEOUT_MARGIN).compareTo(DEFAULT_SCRIPT_TIMEOUT) <= 0) return;
+        driver.manage().timeouts().scriptTimeout(timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+        scriptTimeoutRaised = true;
+    }
+
+    private <T> T poll(Function<WebDriver, T> condition, Object description) {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        var interval = initialPoll;
+        WebDriverException lastError = null;
+        while (true) {
+            try {
+                var value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) throw new TimeoutException("Waited " + timeout.toMillis() + " ms for " + description, lastError);
+            try {
+                Thread.sleep(Math.max(1, Math.min(interval.toMillis(), remaining / 1_000_000)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted while waiting for " + description, e);
+            }
+            interval = interval.multipliedBy(2).compareTo(maxPoll) > 0 ? maxPoll : interval.multipliedBy(2);
+        }
+    }
+
+    private static String cssSelector(By locator) {
+        if (locator instanceof By.Remotable remotable && "css selector".equals(remotable.getRemoteParameters().using())) {
+            return String.valueOf(remotable.getRemoteParameters().value());
+        }
+        return null;
+    }
+}
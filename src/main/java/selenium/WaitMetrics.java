@@ -0,0 +1,42 @@
+package selenium;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent waiting for the page to become ready, per step, shared by all threads.
+ */
+public class WaitMetrics {
+
+    private record Step(LongAdder count, LongAdder nanos, LongAccumulator maxNanos) {
+    }
+
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+
+    public void record(String step, Duration waited) {
+        var stats = steps.computeIfAbsent(step, name -> new Step(new LongAdder(), new LongAdder(), new LongAccumulator(Math::max, 0)));
+        stats.count().increment();
+        stats.nanos().add(waited.toNanos());
+        stats.maxNanos().accumulate(waited.toNanos());
+    }
+
+    /**
+     * One line per step: how many waits, their total, mean and longest time in milliseconds.
+     */
+    public String report() {
+        var report = new StringBuilder(String.format("%-30s %8s %10s %8s %8s%n", "wait step", "count", "total ms", "mean ms", "max ms"));
+        steps.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    var stats = entry.getValue();
+                    var count = stats.count().sum();
+                    var total = stats.nanos().sum() / 1e6;
+                    report.append(String.format("%-30s %8d %10.1f %8.1f %8.1f%n", entry.getKey(), count, total,
+                            total / count, stats.maxNanos().get() / 1e6));
+                });
+        return report.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package selenium;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandCounterTest {
+
+    @Test
+    void localAccessorsAreNotCommands() throws NoSuchMethodException {
+        assertFalse(CommandCounter.isCommand(WebDriver.class.getMethod("switchTo")));
+        assertFalse(CommandCounter.isCommand(WebDriver.Options.class.getMethod("window")));
+        assertFalse(CommandCounter.isCommand(WebDriver.Options.class.getMethod("timeouts")));
+        assertFalse(CommandCounter.isCommand(Object.class.getMethod("toString")));
+    }
+
+    @Test
+    void sameNamedBrowserCallsAreCommands() throws NoSuchMethodException {
+        assertTrue(CommandCounter.isCommand(WebDriver.TargetLocator.class.getMethod("window", String.class)));
+        assertTrue(CommandCounter.isCommand(WebDriver.class.getMethod("findElement", By.class)));
+        assertTrue(CommandCounter.isCommand(WebElement.class.getMethod("click")));
+    }
+}
@@ -0,0 +1,69 @@
+package selenium;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.WebDriver;
+import selenium.ContactFormPage.FillMode;
+import selenium.ContactFormPage.FillStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Times filling the form field by field against filling it with one script, for each scenario of the contact form.
+ * Not part of the regular run, use the "benchmark" profile: mvn test -Pbenchmark
+ */
+@Execution(ExecutionMode.SAME_THREAD)
+class FillModeBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final CommandCounter COMMANDS = new CommandCounter();
+    private static final List<String> RESULTS = new ArrayList<>();
+
+    private static FormServer formServer;
+    private static WebDriver driver;
+    private static ContactFormPage page;
+
+    @BeforeAll
+    static void init() {
+        formServer = FormServer.startConfigured();
+        driver = COMMANDS.decorate(BrowserConfig.fromSystemProperties().launch());
+        page = new ContactFormPage(driver, Readiness.configured(driver, new WaitMetrics()));
+    }
+
+    @AfterAll
+    static void shutdown() {
+        if (driver != null) driver.quit();
+        if (formServer != null) formServer.close();
+        System.out.printf("%-40s %-10s %10s %10s %9s%n", "scenario", "mode", "median ms", "min ms", "commands");
+        RESULTS.forEach(System.out::println);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("selenium.Scenario#all")
+    void compareFillModes(Scenario scenario) {
+        for (var mode : FillMode.values()) {
+            var nanos = new long[ITERATIONS];
+            var commands = 0L;
+            for (int i = 0; i < ITERATIONS; i++) {
+                page.open(scenario.url(formServer.formUrl()));
+                COMMANDS.reset();
+                var start = System.nanoTime();
+                var statuses = page.fillAll(scenario.values(), mode);
+                nanos[i] = System.nanoTime() - start;
+                commands = COMMANDS.count();
+                assertFalse(statuses.containsValue(FillStatus.MISSING), "Could not fill " + statuses);
+            }
+            Arrays.sort(nanos);
+            RESULTS.add(String.format("%-40s %-10s %10.1f %10.1f %9d", scenario, mode,
+                    nanos[ITERATIONS / 2] / 1e6, nanos[0] / 1e6, commands));
+        }
+    }
+}
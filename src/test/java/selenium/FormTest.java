@@ -1,296 +1,108 @@
 package selenium;
 
 import org.junit.jupiter.api.*;
-import org.openqa.selenium.By;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import selenium.ContactFormPage.FillMode;
+import selenium.ContactFormPage.FillStatus;
 
-import java.io.File;
+import java.nio.file.Path;
 import java.time.Duration;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class FormTest {
 
-    private static WebDriver driver;
-    private static WebDriverWait wait;
-    private static final String USER_OS = System.getProperty("os.name");
-    private static final String SYSTEM_ARCHITECTURE = System.getProperty("os.arch");
-    private static final String MAC_INTEL_DRIVER = System.getProperty("user.dir") + File.separator + "drivers" + File.separator + "macos" + File.separator + "chromedriver_mac_intel";
-    private static final String MAC_ARM_DRIVER = System.getProperty("user.dir") + File.separator + "drivers" + File.separator + "macos" + File.separator + "chromedriver_mac_arm";
-    private static final String LINUX_DRIVER = System.getProperty("user.dir") + File.separator + "drivers" + File.separator + "linux" + File.separator + "chromedriver_linux";
-    private static final String WINDOWS_DRIVER = System.getProperty("user.dir") + File.separator + "drivers" + File.separator + "windows" + File.separator + "chromedriver_windows.exe";
+    private static FormServer formServer;
+    private static String formUrl;
+    private static final FillMode FILL_MODE = FillMode.configured();
+    private static final CommandCounter COMMANDS = new CommandCounter();
+    private static final WaitMetrics WAITS = new WaitMetrics();
+    private static final LatencyRecorder LATENCY = new LatencyRecorder();
+    private static DriverPool pool;
+    private static long suiteStart;
+    // one test instance per test method, so these stay confined to the thread running that test
+    private WebDriver driver;
+    private ContactFormPage page;
 
     @BeforeAll
     static void init() {
-        if (USER_OS.startsWith("Mac") && "x86_64".equals(SYSTEM_ARCHITECTURE)) System.setProperty("webdriver.chrome.driver", MAC_INTEL_DRIVER);
-        else if (USER_OS.startsWith("Windows")) System.setProperty("webdriver.chrome.driver", WINDOWS_DRIVER);
-        else if (USER_OS.startsWith("Linux")) System.setProperty("webdriver.chrome.driver", LINUX_DRIVER);
-        else System.setProperty("webdriver.chrome.driver", MAC_ARM_DRIVER);
+        suiteStart = System.nanoTime();
+        // -Dform.remote=true runs against the real Google form instead of the local stand-in
+        formServer = FormServer.startUnlessRemote();
+        formUrl = FormServer.targetUrl(formServer);
+        var browser = BrowserConfig.fromSystemProperties();
+        pool = new DriverPool(DriverPool.configuredSize(), () -> new EventFiringDecorator<>(COMMANDS, LATENCY).decorate(browser.launch()));
     }
 
-    @BeforeEach
-    void getFormPage() {
-        driver = new ChromeDriver();
-        wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        driver.get("https://docs.google.com/forms/d/e/1FAIpQLScVG7idLWR8sxNQygSnLuhehUNVFti0FnVviWCSjDh-JNhsMA/viewform");
-    }
-
-    @AfterEach
-    void terminate() {
-        driver.close();
+    @AfterAll
+    static void shutdown() {
+        if (pool != null) pool.close();
+        if (formServer != null) formServer.close();
+        System.out.print(WAITS.report());
+        reportLatency();
+        System.out.printf("FormTest wall-clock: %d ms%n", Duration.ofNanos(System.nanoTime() - suiteStart).toMillis());
     }
 
-    @Test
-    @DisplayName("Test valid form submission")
-    void testFormSubmissionWithValidData() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test@example.com");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("Turu 2, 51004 Tartu");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        assertTrue(driver.getPageSource().contains("Thanks for submitting your contact info!"));
+    private static void reportLatency() {
+        var report = LatencyReport.configured(LATENCY.samples());
+        var csv = Path.of("target", "latency", "latency.csv");
+        report.writeCsv(csv);
+        // picked up by "mvn site" from the generated site sources
+        report.writeMarkdown(Path.of("target", "generated-site", "markdown", "latency-report.md"));
+        if (Boolean.getBoolean("latency.updateBaseline")) LatencyReport.updateBaseline(csv);
+
+        var regressions = report.regressions();
+        regressions.forEach(regression -> System.out.println("Latency regression: " + regression));
+        if (!regressions.isEmpty() && Boolean.getBoolean("latency.failOnRegression")) {
+            fail(regressions.size() + " latency regression(s) against the baseline");
+        }
     }
 
-    @Test
-    @DisplayName("Form submission with missing name should fail")
-    void testFormSubmissionWithMissingName() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test@example.com");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("Turu 2, 51004 Tartu");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        var alertElement = nameSection.findElement(By.xpath(".//div[@role='alert']"));
-        assertTrue(alertElement.isDisplayed()
-                && (alertElement.getText().contains("See on kohustuslik küsimus") || alertElement.getText().contains("This is a required question"))
-        );
-    }
-
-    @Test
-    @DisplayName("Form submission with invalid email should fail")
-    void testFormSubmissionWithInvalidEmail() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("Turu 2, 51004 Tartu");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        var alertElement = emailSection.findElement(By.xpath(".//div[@role='alert']"));
-        assertTrue(alertElement.isDisplayed()
-                && (alertElement.getText().contains("Please enter a valid email address"))
-        );
-    }
-
-    @Test
-    @DisplayName("Form submission with missing email should fail")
-    void testFormSubmissionWithMissingEmail() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("Turu 2, 51004 Tartu");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        var alertElement = emailSection.findElement(By.xpath(".//div[@role='alert']"));
-        assertTrue(alertElement.isDisplayed()
-                && (alertElement.getText().contains("See on kohustuslik küsimus") || alertElement.getText().contains("Please enter a valid email address"))
-        );
-    }
-
-    @Test
-    @DisplayName("Form submission with missing address should fail")
-    void testFormSubmissionWithMissingAddress() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test@example.com");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        var alertElement = addressSection.findElement(By.xpath(".//div[@role='alert']"));
-        assertTrue(alertElement.isDisplayed()
-                && (alertElement.getText().contains("See on kohustuslik küsimus") || alertElement.getText().contains("This is a required question"))
-        );
+    @BeforeEach
+    void getFormPage(TestInfo testInfo) {
+        // the display name is the scenario name; the lease's health check is booked on it too
+        LatencyRecorder.scenario(testInfo.getDisplayName());
+        LatencyRecorder.step("lease");
+        driver = pool.lease();
+        COMMANDS.reset();
+        page = new ContactFormPage(driver, Readiness.configured(driver, WAITS));
     }
 
-    @Test
-    @DisplayName("Form submission with missing phone number should succeed")
-    void testFormSubmissionWithMissingPhone() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test@example.com");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("Lorem ipsum dolor sit amet");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        assertTrue(driver.getPageSource().contains("Thanks for submitting your contact info!"));
+    @AfterEach
+    void terminate(TestInfo testInfo) {
+        System.out.printf("%s: %d WebDriver commands%n", testInfo.getDisplayName(), COMMANDS.count());
+        LatencyRecorder.step("reset");
+        try {
+            pool.release(driver);
+        } finally {
+            LatencyRecorder.clear();
+        }
     }
 
-    @Test
-    @DisplayName("Form submission with missing comments should succeed")
-    void testFormSubmissionWithMissingComments() {
-        // find and click on choice where text is "Option 3"
-        wait.until(ExpectedConditions.elementToBeClickable(driver.findElement(By.xpath("//span[text() = 'Option 3']")))).click();
-
-        // find element where data-param contains "Name" and find input element with type text within it
-        var nameSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Name\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(nameSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("John");
-
-        // find element where data-param contains "Email" and find input element with type text within it
-        var emailSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Email\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(emailSection.findElement(By.xpath(".//input[@type='email']")))).sendKeys("test@example.com");
-
-        // find element where data-param contains "Address" and find input element with type text within it
-        var addressSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Address\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(addressSection.findElement(By.xpath(".//textarea")))).sendKeys("");
-
-        // find element where data-param contains "Phone number" and find input element with type text within it
-        var phoneSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Phone number\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(phoneSection.findElement(By.xpath(".//input[@type='text']")))).sendKeys("+37211111111");
-
-        // find element where data-param contains "Comments" and find input element with type text within it
-        var commentsSection = driver.findElement(By.xpath("//*[contains(@data-params, '\"Comments\"')]"));
-        wait.until(ExpectedConditions.elementToBeClickable(commentsSection.findElement(By.xpath(".//textarea")))).sendKeys("");
-
-        // find div element where role attribute is "button" and locate element within it where
-        // text value is "Submit" or "Saada ära" and click on it
-        var submitButton = driver.findElement((By.xpath("//div[@role='button' and .//*[contains(text(), 'Submit') or contains(text(), 'Saada ära')]]")));
-        wait.until(ExpectedConditions.elementToBeClickable(submitButton)).click();
-
-        assertTrue(driver.getPageSource().contains("Thanks for submitting your contact info!"));
+    @ParameterizedTest(name = "{0}")
+    // validation-only rows are covered by HttpTierTest
+    @MethodSource("selenium.Scenario#browserTier")
+    @DisplayName("Form submission")
+    void testFormSubmission(Scenario scenario) {
+        LatencyRecorder.scenario(scenario.name());
+        page.open(scenario.url(formUrl));
+        if (!scenario.option().isEmpty()) page.chooseOption(scenario.option());
+        var statuses = page.fillAll(scenario.values(), FILL_MODE);
+        assertFalse(statuses.containsValue(FillStatus.MISSING) || statuses.containsValue(FillStatus.DISABLED), "Could not fill " + statuses);
+        page.submit();
+
+        if (scenario.expected() == Scenario.Outcome.SUCCESS) {
+            assertTrue(page.isConfirmationShown());
+        } else {
+            var alertElement = page.alert(scenario.alertField());
+            assertTrue(alertElement.isDisplayed() && scenario.matchesAlert(alertElement.getText()),
+                    "Expected \"" + scenario.expectedAlert() + "\", got: " + alertElement.getText());
+        }
     }
 
 }
@@ -0,0 +1,90 @@
+package selenium;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every scenario without a browser by posting the values straight to the form's submit endpoint.
+ * All submissions are sent at once on the shared client when the class starts, so they run in parallel whatever
+ * the test parallelism; each test only waits for its own response and checks it.
+ */
+public class HttpTierTest {
+
+    private static final HttpFormClient CLIENT = HttpFormClient.create();
+    // the form page is read once per language, not once per scenario
+    private static final Map<String, HttpFormClient.Form> FORMS = new ConcurrentHashMap<>();
+    private static final Map<Scenario, CompletableFuture<HttpFormClient.Result>> RESULTS = new ConcurrentHashMap<>();
+    private static FormServer formServer;
+    private static String formUrl;
+    private static long suiteStart;
+
+    @BeforeAll
+    static void init() {
+        suiteStart = System.nanoTime();
+        formServer = FormServer.startUnlessRemote();
+        formUrl = FormServer.targetUrl(formServer);
+        try (var scenarios = Scenario.all()) {
+            scenarios.forEach(scenario -> RESULTS.put(scenario, submit(scenario)));
+        }
+    }
+
+    private static CompletableFuture<HttpFormClient.Result> submit(Scenario scenario) {
+        try {
+            var form = FORMS.computeIfAbsent(scenario.url(formUrl), CLIENT::load);
+            var answers = new LinkedHashMap<String, String>();
+            if (!scenario.option().isEmpty()) {
+                answers.put(form.entryOffering(scenario.option()).orElseThrow(() -> new AssertionError("No option " + scenario.option())),
+                        scenario.option());
+            }
+            scenario.values().forEach((field, value) ->
+                    answers.put(form.entry(field.label()).orElseThrow(() -> new AssertionError("No question " + field.label())), value));
+            return CLIENT.submitAsync(form, answers);
+        } catch (RuntimeException | AssertionError e) {
+            // reported by the scenario's own test
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @AfterAll
+    static void shutdown() {
+        if (formServer != null) formServer.close();
+        System.out.printf("HttpTierTest wall-clock: %d ms%n", Duration.ofNanos(System.nanoTime() - suiteStart).toMillis());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("selenium.Scenario#all")
+    @DisplayName("Form submission over HTTP")
+    void testFormSubmission(Scenario scenario) {
+        HttpFormClient.Result result;
+        try {
+            result = RESULTS.get(scenario).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Error error ? error : new AssertionError("Submission failed", e.getCause());
+        }
+
+        if (scenario.expected() == Scenario.Outcome.SUCCESS) {
+            assertEquals(200, result.status(), "Alerts: " + result.alerts());
+            assertTrue(result.confirmed(), "Alerts: " + result.alerts());
+        } else {
+            assertFalse(result.confirmed());
+            var alert = result.alerts().get(scenario.alertField().label());
+            assertNotNull(alert, "No alert for " + scenario.alertField().label() + ", got " + result.alerts());
+            assertTrue(scenario.matchesAlert(alert), "Expected \"" + scenario.expectedAlert() + "\", got: " + alert);
+        }
+    }
+}
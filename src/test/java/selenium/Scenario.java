@@ -0,0 +1,197 @@
+package selenium;
+
+import selenium.ContactFormPage.Field;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * One row of a scenario file: what to put in the form and what the form should answer.
+ * Files are streamed row by row, so they can hold any number of cases.
+ */
+record Scenario(String name, String language, String option, Map<Field, String> values,
+                Outcome expected, Field alertField, String alertEnglish, String alertEstonian, Tier tier) {
+
+    static final String CONTACT_FORM = "/scenarios/contact-form.csv";
+
+    private static final int COLUMNS = 13;
+
+    enum Outcome { SUCCESS, ALERT }
+
+    /**
+     * The cheapest tier that covers the case. HTTP rows only check what the form accepts and run without a browser;
+     * BROWSER rows exercise the page itself and run in both tiers.
+     */
+    enum Tier { BROWSER, HTTP }
+
+    /**
+     * Whether the browser tier runs this scenario; "-Dscenarios.browser=all" runs every row in the browser as well.
+     */
+    boolean needsBrowser() {
+        return tier == Tier.BROWSER || "all".equals(System.getProperty("scenarios.browser"));
+    }
+
+    /**
+     * The form URL in the scenario's language.
+     */
+    String url(String formUrl) {
+        return "et".equals(language) ? formUrl + (formUrl.contains("?") ? "&" : "?") + "hl=et" : formUrl;
+    }
+
+    /**
+     * The validation message the form should show in the scenario's language.
+     */
+    String expectedAlert() {
+        return "et".equals(language) ? alertEstonian : alertEnglish;
+    }
+
+    boolean matchesAlert(String text) {
+        return text.contains(expectedAlert());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * The scenarios of a file on the test classpath, read lazily; tests take them through @MethodSource.
+     * Columns: scenario, language, option, name, email, address, phone, comments, expected, alert_field, alert_en, alert_et, tier
+     */
+    static Stream<Scenario> load(String resource) {
+        var in = Scenario.class.getResourceAsStream(resource);
+        if (in == null) throw new IllegalArgumentException("No scenario file " + resource);
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        var csv = new CsvReader(reader);
+        csv.next(); // header
+        return Stream.iterate(csv.next(), Objects::nonNull, row -> csv.next())
+                .map(row -> of(resource, row))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * The contact form scenarios the browser tier runs.
+     */
+    static Stream<Scenario> browserTier() {
+        return load(CONTACT_FORM).filter(Scenario::needsBrowser);
+    }
+
+    /**
+     * Every contact form scenario.
+     */
+    static Stream<Scenario> all() {
+        return load(CONTACT_FORM);
+    }
+
+    private static Scenario of(String resource, CsvReader.Row row) {
+        var cells = row.cells();
+        var where = resource + " line " + row.line() + " (" + cells.get(0) + ")";
+        if (cells.size() != COLUMNS) {
+            throw new IllegalArgumentException(where + ": expected " + COLUMNS + " columns, got " + cells.size());
+        }
+        try {
+            var values = new EnumMap<Field, String>(Field.class);
+            values.put(Field.NAME, cells.get(3));
+            values.put(Field.EMAIL, cells.get(4));
+            values.put(Field.ADDRESS, cells.get(5));
+            values.put(Field.PHONE, cells.get(6));
+            values.put(Field.COMMENTS, cells.get(7));
+            var expected = Outcome.valueOf(cells.get(8));
+            return new Scenario(cells.get(0), cells.get(1), cells.get(2), values, expected,
+                    expected == Outcome.ALERT ? Field.valueOf(cells.get(9)) : null, cells.get(10), cells.get(11),
+                    Tier.valueOf(cells.get(12)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(where + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads comma separated records. Cells holding a comma, quote or line break are quoted, with "" for a quote
+     * inside them; unquoted cells are trimmed.
+     */
+    static final class CsvReader {
+
+        /**
+         * A record and the line it starts on.
+         */
+        record Row(int line, List<String> cells) {
+        }
+
+        private final BufferedReader reader;
+        private int lineNumber;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * The next record, skipping blank lines, or null at the end of the input.
+         */
+        Row next() {
+            String line;
+            do {
+                line = readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+
+            var first = lineNumber;
+            var cells = new ArrayList<String>();
+            var cell = new StringBuilder();
+            var quoted = false;
+            var wasQuoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    var c = line.charAt(i);
+                    if (quoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        // blanks before the opening quote are padding, not content
+                        if (!quoted && !wasQuoted && cell.toString().isBlank()) cell.setLength(0);
+                        quoted = !quoted;
+                        wasQuoted = true;
+                    } else if (c == ',' && !quoted) {
+                        cells.add(wasQuoted ? cell.toString() : cell.toString().trim());
+                        cell.setLength(0);
+                        wasQuoted = false;
+                    } else if (quoted || !wasQuoted || !Character.isWhitespace(c)) {
+                        // blanks after the closing quote are dropped as well
+                        cell.append(c);
+                    }
+                }
+                if (!quoted) break;
+                // the quoted cell goes on in the next line
+                line = readLine();
+                if (line == null) throw new IllegalArgumentException("Unterminated quoted cell in the record starting on line " + first);
+                cell.append('\n');
+            }
+            cells.add(wasQuoted ? cell.toString() : cell.toString().trim());
+            return new Row(first, cells);
+        }
+
+        private String readLine() {
+            try {
+                var line = reader.readLine();
+                if (line != null) lineNumber++;
+                return line;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the scenario file", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package selenium;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioTest {
+
+    private static Scenario.CsvReader csv(String text) {
+        return new Scenario.CsvReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    void readsQuotedCells() {
+        var reader = csv("a, \"Turu 2, Tartu\" ,\"say \"\"hi\"\"\",\n\n\" kept \",b\n");
+
+        var first = reader.next();
+        assertEquals(List.of("a", "Turu 2, Tartu", "say \"hi\"", ""), first.cells());
+        assertEquals(1, first.line());
+        var second = reader.next();
+        assertEquals(List.of(" kept ", "b"), second.cells());
+        assertEquals(3, second.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void quotedCellMaySpanLines() {
+        var reader = csv("a,\"first\nsecond\",c\nd\n");
+
+        assertEquals(List.of("a", "first\nsecond", "c"), reader.next().cells());
+        assertEquals(3, reader.next().line());
+    }
+
+    @Test
+    void unterminatedQuoteNamesTheLine() {
+        var reader = csv("a\nb,\"open\nstill open\n");
+        reader.next();
+
+        var error = assertThrows(IllegalArgumentException.class, reader::next);
+        assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+    }
+
+    @Test
+    void shortRowNamesLineAndScenario() {
+        try (var scenarios = Scenario.load("/scenarios/malformed.csv")) {
+            var error = assertThrows(IllegalArgumentException.class, scenarios::toList);
+            assertTrue(error.getMessage().contains("line 3 (Short row): expected 13 columns, got 4"), error.getMessage());
+        }
+    }
+
+    @Test
+    void contactFormScenariosAreWellFormed() {
+        try (var scenarios = Scenario.all()) {
+            assertEquals(13, scenarios.count());
+        }
+    }
+}